@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import javax.naming.directory.SearchResult;
 
@@ -40,24 +41,91 @@ public class AuthorSearch extends DBLPSearch {
     
         return new ArrayList<>();
     }
+
+    /**
+     * Executes a search for authors without blocking the caller. Each hit's profile is fetched as a dependent future,
+     * so the profile requests overlap within the global fetch limit. Nothing is printed; the lines are returned in hit order.
+     * @param query the search query string to be executed.
+     * @return a future completing with the formatted result lines.
+     */
+    @Override
+    public CompletableFuture<List<String>> executeAsync(String query) {
+        String cacheDir = this.cacheDir;
+        return getDocumentAsync(query, cacheDir).thenCompose(doc -> {
+            List<CompletableFuture<String>> lines = new ArrayList<>();
+            if (doc != null) {
+                for (String[] author : getAuthors(doc)) {
+                    String authorName = author[0];
+                    String authorUrl = author[1];
+                    lines.add(fetchAsync(authorUrl + ".xml", cacheDir).thenApply(profile -> formatAuthor(authorName, profile)));
+                }
+            }
+            return CompletableFuture.allOf(lines.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+                List<String> results = new ArrayList<>();
+                for (CompletableFuture<String> line : lines) {
+                    results.add(line.join());
+                }
+                return results;
+            });
+        });
+    }
     
     /**
      * Processes the results of an author search by extracting and printing the name, number of publications, and number of co-authors of the authors from the XML Document object.
      * @param doc the XML Document object representing the results of an author search.
      */
     protected void processResults(Document doc) {
+        for (String line : formatResults(doc)) {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Extracts the name, number of publications, and number of co-authors of the authors from the XML Document object.
+     * The profile of each author is retrieved once, one after another on the calling thread.
+     * @param doc the XML Document object representing the results of an author search.
+     * @return one line per author with their number of publications and co-authors.
+     */
+    @Override
+    protected List<String> formatResults(Document doc) {
+        List<String> lines = new ArrayList<>();
+        for (String[] author : getAuthors(doc)) {
+            Document profile = XmlParser.getDocument(author[1] + ".xml", cacheDir);
+            lines.add(formatAuthor(author[0], profile));
+        }
+        return lines;
+    }
 
+    /**
+     * Extracts the name and profile URL of each author hit from the XML Document object.
+     * @param doc the XML Document object representing the results of an author search.
+     * @return one entry per hit, holding the author's name followed by their profile URL.
+     */
+    private List<String[]> getAuthors(Document doc) {
+        List<String[]> authors = new ArrayList<>();
         NodeList hits = doc.getElementsByTagName("hit");
         for (int i = 0; i < hits.getLength(); i++) {
             Element hit = (Element) hits.item(i);
             Element info = (Element) hit.getElementsByTagName("info").item(0);
             String authorName = info.getElementsByTagName("author").item(0).getTextContent().trim();
             String authorUrl = info.getElementsByTagName("url").item(0).getTextContent().trim();
-            int numPublications = getNumPublications(authorUrl, cacheDir);
-            //System.out.println(numPublications);
-            int numCoauthors = getNumCoauthors(authorUrl, cacheDir);
-            System.out.println(authorName + " - " + numPublications + " publications with " + numCoauthors + " co-authors.");
+            authors.add(new String[] {authorName, authorUrl});
+        }
+        return authors;
+    }
+
+    /**
+     * Formats the output line for a single author from their profile document.
+     * A profile that cannot be retrieved only affects its own line, not the rest of the search.
+     * @param authorName the name of the author.
+     * @param profile the XML Document object representing the author's profile, or null if it cannot be retrieved.
+     * @return the formatted line.
+     */
+    private String formatAuthor(String authorName, Document profile) {
+        if (profile == null) {
+            return authorName + " - profile unavailable.";
         }
+        return authorName + " - " + countPublications(profile) + " publications with " + countCoauthors(profile) + " co-authors.";
     }
      
     /**
@@ -70,6 +138,15 @@ public class AuthorSearch extends DBLPSearch {
         // Reference: Notice the lack of information about number of publications and the number of co-authors in the XML output. This data is available through the URLs listed in the XML response, inside the info elements. By adding an .xml extension to these URLs you can retrieve the data in a machine-readable format. Try visiting these URLs in your browser to get a better idea of what the file contents look like. 
         String apiUrl = url + ".xml";
         Document doc = XmlParser.getDocument(apiUrl, cacheDir);
+        return countPublications(doc);
+    }
+
+    /**
+     * Returns the number of publications listed in the specified author profile document.
+     * @param doc the XML Document object representing the author's profile.
+     * @return the number of publications of the author.
+     */
+    private int countPublications(Document doc) {
         NodeList nodes = doc.getElementsByTagName("r");
         int count = nodes.getLength();
         // debugging: for (int i = 0; i < nodes.getLength(); i++) {
@@ -83,14 +160,11 @@ public class AuthorSearch extends DBLPSearch {
     }
     
     /**
-     * Returns the number of co-authors of the author from the specified URL and cache directory path.
-     * @param url the URL of the author to retrieve the number of co-authors from.
-     * @param cacheDir the directory path to store the cache files of search results.
+     * Returns the number of distinct co-authors listed in the specified author profile document.
+     * @param doc the XML Document object representing the author's profile.
      * @return the number of co-authors of the author.
      */
-    private int getNumCoauthors(String url, String cacheDir) {
-        String apiUrl = url + ".xml";
-        Document doc = XmlParser.getDocument(apiUrl, cacheDir);
+    private int countCoauthors(Document doc) {
         NodeList nodes = doc.getElementsByTagName("co");
         Set<String> coauthors = new HashSet<>();
         for (int i = 0; i < nodes.getLength(); i++) {
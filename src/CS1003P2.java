@@ -103,12 +103,12 @@ public class CS1003P2 {
         BigDecimal similarityThreshold = new BigDecimal("0.5"); // Set your similarity threshold
         TextSearch textSearch = new TextSearch(sparkContext, similarityThreshold);
 
-        // Read text files
+        // Load the pre-tokenized corpus, rebuilding it only when the text files have changed
         TextFileProcessor textFileProcessor = new TextFileProcessor(sparkContext);
-        JavaRDD<String> textFiles = textFileProcessor.readTextFiles(cacheDir);
+        CorpusSnapshot corpus = textFileProcessor.loadSnapshot(cacheDir);
 
         // Perform text search
-        JavaRDD<String> textSearchResults = textSearch.search(query, textFiles);
+        JavaRDD<String> textSearchResults = textSearch.search(query, corpus);
 
         // Print text search results
         textSearchResults.collect().forEach(System.out::println);
@@ -0,0 +1,263 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * This class holds a pre-tokenized, dictionary-encoded copy of a text corpus.
+ * Every distinct cleaned word is stored once in a dictionary and the corpus itself is an array of word IDs,
+ * so repeated searches can skip reading, cleaning and splitting the raw text files.
+ * The snapshot is saved inside the source directory together with a fingerprint of its files,
+ * and is only rebuilt when those files change.
+ */
+public class CorpusSnapshot {
+
+    // Identifies snapshot files and their layout version.
+    private static final int MAGIC = 0x44424c50;
+    private static final int VERSION = 2;
+    // Name of the snapshot file inside the source directory. The leading underscore makes Spark's textFile skip it.
+    private static final String SNAPSHOT_NAME = "_corpus.snapshot";
+
+    private final long fingerprint;
+    private final String[] dictionary;
+    private final int[] tokens;
+
+    /**
+     * Initializes a new instance of the CorpusSnapshot class.
+     *
+     * @param fingerprint The fingerprint of the source directory the snapshot was built from.
+     * @param dictionary The distinct words of the corpus, indexed by word ID.
+     * @param tokens The word IDs of the corpus in reading order.
+     */
+    private CorpusSnapshot(long fingerprint, String[] dictionary, int[] tokens) {
+        this.fingerprint = fingerprint;
+        this.dictionary = dictionary;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Encodes a list of cleaned words into a snapshot, assigning word IDs in order of first appearance.
+     *
+     * @param fingerprint The fingerprint of the source directory the words were read from.
+     * @param words The cleaned, non-empty words of the corpus in reading order.
+     * @return A CorpusSnapshot containing the encoded words.
+     */
+    public static CorpusSnapshot encode(long fingerprint, List<String> words) {
+        Map<String, Integer> wordIds = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] tokens = new int[words.size()];
+        for (int i = 0; i < tokens.length; i++) {
+            String word = words.get(i);
+            Integer id = wordIds.get(word);
+            if (id == null) {
+                id = dictionary.size();
+                wordIds.put(word, id);
+                dictionary.add(word);
+            }
+            tokens[i] = id;
+        }
+        return new CorpusSnapshot(fingerprint, dictionary.toArray(new String[0]), tokens);
+    }
+
+    /**
+     * Calculates a fingerprint of the files Spark would read from the specified directory, based on their names and contents.
+     * Modification times are deliberately ignored: the XML cache rewrites unchanged files on every run,
+     * and that alone must not invalidate the snapshot.
+     *
+     * @param dataDirPath The path to the directory containing the text files.
+     * @return A fingerprint that changes whenever a file is added, removed or its contents change,
+     *         or an empty OptionalLong if the directory or its files cannot be read.
+     */
+    public static OptionalLong fingerprint(String dataDirPath) {
+        File[] files = new File(dataDirPath).listFiles();
+        if (files == null) {
+            System.err.println("Error listing corpus directory: " + dataDirPath);
+            return OptionalLong.empty();
+        }
+        Arrays.sort(files);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (File file : files) {
+                // Spark's textFile skips hidden files, so they do not affect the corpus.
+                String name = file.getName();
+                if (!file.isFile() || name.startsWith(".") || name.startsWith("_")) {
+                    continue;
+                }
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update(ByteBuffer.allocate(Long.BYTES).putLong(file.length()).array());
+                try (InputStream in = new FileInputStream(file)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+            return OptionalLong.of(ByteBuffer.wrap(digest.digest()).getLong());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            System.err.println("Error fingerprinting corpus directory: " + dataDirPath);
+            e.printStackTrace();
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns the snapshot file used for the specified source directory.
+     *
+     * @param dataDirPath The path to the directory containing the text files.
+     * @return The snapshot file, stored inside the directory under a name Spark does not read as text.
+     */
+    public static File snapshotFile(String dataDirPath) {
+        return new File(dataDirPath, SNAPSHOT_NAME);
+    }
+
+    /**
+     * Loads the snapshot saved for the specified source directory if it matches the given fingerprint.
+     *
+     * @param dataDirPath The path to the directory containing the text files.
+     * @param fingerprint The current fingerprint of the source directory.
+     * @return The saved CorpusSnapshot, or null if there is none or it is out of date.
+     */
+    public static CorpusSnapshot load(String dataDirPath, long fingerprint) {
+        File file = snapshotFile(dataDirPath);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fingerprint) {
+                return null;
+            }
+            String[] dictionary = new String[in.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                byte[] word = new byte[in.readInt()];
+                in.readFully(word);
+                dictionary[i] = new String(word, StandardCharsets.UTF_8);
+            }
+            int[] tokens = new int[in.readInt()];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = in.readInt();
+            }
+            return new CorpusSnapshot(fingerprint, dictionary, tokens);
+        } catch (IOException e) {
+            System.err.println("Error reading corpus snapshot: " + file);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Saves this snapshot inside the specified source directory, replacing any older snapshot.
+     * The snapshot is written to a temporary file first and then moved into place,
+     * so readers never see a partially written snapshot.
+     *
+     * @param dataDirPath The path to the directory containing the text files.
+     */
+    public void save(String dataDirPath) {
+        File file = snapshotFile(dataDirPath);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(new File(dataDirPath).toPath(), SNAPSHOT_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp.toFile())))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint);
+                out.writeInt(dictionary.length);
+                for (String word : dictionary) {
+                    // Words are length-prefixed UTF-8 rather than writeUTF, which rejects strings over 64 KB.
+                    byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+                out.writeInt(tokens.length);
+                for (int token : tokens) {
+                    out.writeInt(token);
+                }
+            }
+            try {
+                Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving corpus snapshot: " + file);
+            e.printStackTrace();
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException deleteError) {
+                    System.err.println("Error deleting partial corpus snapshot: " + temp);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The fingerprint of the source directory this snapshot was built from.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return The number of words in the corpus.
+     */
+    public int size() {
+        return tokens.length;
+    }
+
+    /**
+     * @return The number of distinct words in the corpus.
+     */
+    public int dictionarySize() {
+        return dictionary.length;
+    }
+
+    /**
+     * Returns the word with the specified word ID.
+     *
+     * @param id The word ID.
+     * @return The cleaned word with that ID.
+     */
+    public String word(int id) {
+        return dictionary[id];
+    }
+
+    /**
+     * Returns the word ID at the specified position in the corpus.
+     *
+     * @param index The position of the word in reading order.
+     * @return The ID of the word at that position.
+     */
+    public int tokenAt(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * Returns the word at the specified position in the corpus.
+     *
+     * @param index The position of the word in reading order.
+     * @return The cleaned word at that position.
+     */
+    public String wordAt(int index) {
+        return dictionary[tokens[index]];
+    }
+}
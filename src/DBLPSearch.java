@@ -4,13 +4,26 @@
  */
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.naming.directory.SearchResult;
 
 import org.w3c.dom.Document;
 
 public abstract class DBLPSearch {
+    // The maximum number of DBLP requests that may be in flight at once, shared by all searches.
+    protected static final int MAX_CONCURRENT_FETCHES = 4;
+    // The executor running every asynchronous fetch; its pool size enforces the global fetch limit.
+    protected static final ExecutorService FETCH_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_FETCHES, task -> {
+        Thread thread = new Thread(task, "dblp-fetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     // The search query string.
     protected String query;
     // The URL of the DBLP API to be used for the search.
@@ -37,6 +50,25 @@ public abstract class DBLPSearch {
      */
     public abstract List<SearchResult> execute(String query, String cacheDir);
 
+    /**
+     * Formats the results held in the XML Document object into one line of output per result.
+     * @param doc the XML Document object representing the results of the search.
+     * @return the formatted result lines, in the order they appear in the document.
+     */
+    protected abstract List<String> formatResults(Document doc);
+
+    /**
+     * Executes the search operation without blocking the caller, using this search's cache directory.
+     * Nothing is printed; the caller receives the formatted result lines and decides what to do with them.
+     * Subclasses that make several requests per search may override this to issue them as dependent futures.
+     * @param query the search query string to be executed.
+     * @return a future completing with the formatted result lines.
+     */
+    public CompletableFuture<List<String>> executeAsync(String query) {
+        String cacheDir = this.cacheDir;
+        return getDocumentAsync(query, cacheDir).thenApply(doc -> doc == null ? new ArrayList<String>() : formatResults(doc));
+    }
+
     /**
      * Sends a GET request to the specified URL to retrieve an XML document and returns it as a Document object.
      * @return a Document object representing the XML response from the specified URL.
@@ -45,4 +77,25 @@ public abstract class DBLPSearch {
         String url = apiUrl+ URLEncoder.encode(query, StandardCharsets.UTF_8);
         return XmlParser.getDocument(url, cacheDir);
     }
+
+    /**
+     * Retrieves the XML document for the specified query on the fetch executor.
+     * @param query the search query string to be executed.
+     * @param cacheDir the directory path to store the cache files of search results.
+     * @return a future completing with the Document object, or null if the document cannot be retrieved.
+     */
+    protected CompletableFuture<Document> getDocumentAsync(String query, String cacheDir) {
+        String url = apiUrl + URLEncoder.encode(query, StandardCharsets.UTF_8);
+        return fetchAsync(url, cacheDir);
+    }
+
+    /**
+     * Retrieves the XML document at the specified URL on the fetch executor.
+     * @param url the URL of the XML document to be retrieved.
+     * @param cacheDir the directory path to store the cache files of retrieved XML documents.
+     * @return a future completing with the Document object, or null if the document cannot be retrieved.
+     */
+    protected static CompletableFuture<Document> fetchAsync(String url, String cacheDir) {
+        return CompletableFuture.supplyAsync(() -> XmlParser.getDocument(url, cacheDir), FETCH_EXECUTOR);
+    }
 }
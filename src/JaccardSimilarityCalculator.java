@@ -25,13 +25,11 @@ public class JaccardSimilarityCalculator {
 
         Set<String> intersection = new HashSet<>(bigrams2);
         intersection.retainAll(bigrams1);
-        BigDecimal intersectionSize = new BigDecimal(intersection.size());
 
         Set<String> union = new HashSet<>(bigrams1);
         union.addAll(bigrams2);
-        BigDecimal unionSize = new BigDecimal(union.size());
       
-        BigDecimal jaccardSimilarity = intersectionSize.divide(unionSize, new MathContext(100));
+        BigDecimal jaccardSimilarity = calculate(intersection.size(), union.size());
         // if (word2.trim().equals("the christmas tree carefully helen")) {
         //     System.out.println(intersection.size());
         //     System.out.println(union.size());
@@ -42,6 +40,17 @@ public class JaccardSimilarityCalculator {
         return jaccardSimilarity;
     }
 
+    /**
+     * Calculates the Jaccard similarity from the sizes of the intersection and union of two bigram sets.
+     *
+     * @param intersectionSize The number of bigrams the two sets have in common.
+     * @param unionSize The number of distinct bigrams in either set.
+     * @return A BigDecimal value representing the Jaccard similarity between the two sets.
+     */
+    public BigDecimal calculate(int intersectionSize, int unionSize) {
+        return new BigDecimal(intersectionSize).divide(new BigDecimal(unionSize), new MathContext(100));
+    }
+
     /**
      * Calculates the character bigrams for a given input string.
      *
@@ -43,17 +43,31 @@ public class PublicationSearch extends DBLPSearch {
      * @param doc the XML Document object representing the results of a publication search.
      */
     protected void processResults(Document doc) {
+        for (String line : formatResults(doc)) {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Extracts the titles and number of authors of the publications from the XML Document object.
+     * @param doc the XML Document object representing the results of a publication search.
+     * @return one line per publication with its title and number of authors.
+     */
+    @Override
+    protected List<String> formatResults(Document doc) {
         // Reference: https://studres.cs.st-andrews.ac.uk/CS1003/Lectures/W03-Examples/W03-5-XMLStreaming/DomExample.java
         // Reference: https://studres.cs.st-andrews.ac.uk/CS1003/Lectures/W03-Examples/W03-3/XMLRev.java
 
+        List<String> lines = new ArrayList<>();
         NodeList hits = doc.getElementsByTagName("hit");
         for (int i = 0; i < hits.getLength(); i++) {
             Element hit = (Element) hits.item(i);
             Element info = (Element) hit.getElementsByTagName("info").item(0);
             String title = info.getElementsByTagName("title").item(0).getTextContent().trim();
             int numAuthors = info.getElementsByTagName("author").getLength();
-            System.out.println(title + " (number of authors: " + numAuthors + ")");
+            lines.add(title + " (number of authors: " + numAuthors + ")");
         }
+        return lines;
     }
 }
 
@@ -3,6 +3,10 @@ import org.apache.spark.api.java.JavaSparkContext;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is responsible for processing text files using Apache Spark.
@@ -10,6 +14,9 @@ import java.util.Arrays;
  */
 public class TextFileProcessor {
 
+    // A Map used to keep loaded snapshots in memory where the key is the data directory path.
+    private static Map<String, CorpusSnapshot> snapshots = new ConcurrentHashMap<>();
+
     private final JavaSparkContext sparkContext;
 
     /**
@@ -36,5 +43,48 @@ public class TextFileProcessor {
 
         return textWords;
     }
-}
 
+    /**
+     * Returns a pre-tokenized snapshot of the text files in the specified directory.
+     * The snapshot is taken from memory or from disk when the directory's fingerprint is unchanged,
+     * and is otherwise rebuilt from the text files once and saved for later searches.
+     * If the directory cannot be fingerprinted, the snapshot is rebuilt and neither saved nor kept in memory,
+     * since there is no way to tell whether it is still current.
+     *
+     * @param dataDirPath The path to the directory containing the text files.
+     * @return A CorpusSnapshot containing the cleaned words of the text files.
+     */
+    public CorpusSnapshot loadSnapshot(String dataDirPath) {
+        OptionalLong currentFingerprint = CorpusSnapshot.fingerprint(dataDirPath);
+        if (!currentFingerprint.isPresent()) {
+            snapshots.remove(dataDirPath);
+            return buildSnapshot(dataDirPath, 0L);
+        }
+        long fingerprint = currentFingerprint.getAsLong();
+        CorpusSnapshot snapshot = snapshots.get(dataDirPath);
+        if (snapshot == null || snapshot.getFingerprint() != fingerprint) {
+            snapshot = CorpusSnapshot.load(dataDirPath, fingerprint);
+            if (snapshot == null) {
+                snapshot = buildSnapshot(dataDirPath, fingerprint);
+                snapshot.save(dataDirPath);
+            }
+            snapshots.put(dataDirPath, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reads, cleans and splits the text files in the specified directory and encodes the words into a snapshot.
+     *
+     * @param dataDirPath The path to the directory containing the text files.
+     * @param fingerprint The current fingerprint of the directory, or 0 if it is unknown.
+     * @return A CorpusSnapshot containing the cleaned words of the text files.
+     */
+    private CorpusSnapshot buildSnapshot(String dataDirPath, long fingerprint) {
+        List<String> words = readTextFiles(dataDirPath)
+                .flatMap(line -> Arrays.asList(TextConvertor.cleanText(line).split("[ \t\n\r]+")).iterator())
+                .filter(word -> !word.isEmpty())
+                .collect();
+        return CorpusSnapshot.encode(fingerprint, words);
+    }
+}
@@ -1,12 +1,16 @@
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.JavaSparkContext;
+import org.w3c.dom.Document;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class TextSearch extends DBLPSearch {
 
@@ -30,6 +34,19 @@ public class TextSearch extends DBLPSearch {
         return new ArrayList<>();
     }
 
+    @Override
+    protected List<String> formatResults(Document doc) {
+        // Text search works on the cached text files rather than a DBLP API response,
+        // so there is no XML document to format.
+        return new ArrayList<>();
+    }
+
+    @Override
+    public CompletableFuture<List<String>> executeAsync(String query) {
+        // Text search never calls the DBLP API, so there is nothing to fetch on the shared fetch executor.
+        return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+
     public JavaRDD<String> search(String searchTerm, JavaRDD<String> textFiles) {
         String cleanedSearchTerm = TextConvertor.cleanText(searchTerm);
         String[] searchTermWords = cleanedSearchTerm.split("[ \t\n\r]+");
@@ -58,6 +75,70 @@ public class TextSearch extends DBLPSearch {
         return sparkContext.parallelize(matchingSubsequences);
     }
 
+    /**
+     * Searches a pre-tokenized corpus snapshot, skipping the reading and cleaning of the raw text files.
+     * Character bigrams never span the space between two words, so the bigrams of a run of words are the union of
+     * the bigrams of its words. Each distinct word's bigrams are therefore calculated once, and the run slides along
+     * the word IDs one word at a time; the text of a run is only built when it matches.
+     *
+     * @param searchTerm The search term.
+     * @param corpus The pre-tokenized corpus to search.
+     * @return A JavaRDD containing the matching subsequences.
+     */
+    public JavaRDD<String> search(String searchTerm, CorpusSnapshot corpus) {
+        String cleanedSearchTerm = TextConvertor.cleanText(searchTerm);
+        int numWordsInSearchTerm = cleanedSearchTerm.split("[ \t\n\r]+").length;
+        Set<String> searchTermBigrams = similarityCalculator.calculateCharacterBigrams(cleanedSearchTerm);
+
+        List<Set<String>> wordBigrams = new ArrayList<>(corpus.dictionarySize());
+        for (int id = 0; id < corpus.dictionarySize(); id++) {
+            wordBigrams.add(similarityCalculator.calculateCharacterBigrams(corpus.word(id)));
+        }
+
+        // The number of words in the current run containing each bigram, and how many of those bigrams the search term shares.
+        Map<String, Integer> runBigrams = new HashMap<>();
+        int sharedBigrams = 0;
+        List<String> matchingSubsequences = new ArrayList<>();
+
+        for (int i = 0; i < corpus.size(); i++) {
+            for (String bigram : wordBigrams.get(corpus.tokenAt(i))) {
+                int count = runBigrams.getOrDefault(bigram, 0);
+                runBigrams.put(bigram, count + 1);
+                if (count == 0 && searchTermBigrams.contains(bigram)) {
+                    sharedBigrams++;
+                }
+            }
+            if (i >= numWordsInSearchTerm) {
+                for (String bigram : wordBigrams.get(corpus.tokenAt(i - numWordsInSearchTerm))) {
+                    int count = runBigrams.get(bigram);
+                    if (count > 1) {
+                        runBigrams.put(bigram, count - 1);
+                    } else {
+                        runBigrams.remove(bigram);
+                        if (searchTermBigrams.contains(bigram)) {
+                            sharedBigrams--;
+                        }
+                    }
+                }
+            }
+            if (i < numWordsInSearchTerm - 1) {
+                continue;
+            }
+
+            int unionSize = runBigrams.size() + searchTermBigrams.size() - sharedBigrams;
+            BigDecimal similarity = similarityCalculator.calculate(sharedBigrams, unionSize);
+
+            if (similarity.compareTo(similarityThreshold) >= 0) {
+                StringBuilder subsequence = new StringBuilder();
+                for (int j = i - numWordsInSearchTerm + 1; j <= i; j++) {
+                    subsequence.append(corpus.wordAt(j)).append(" ");
+                }
+                matchingSubsequences.add(subsequence.toString().trim());
+            }
+        }
+        return sparkContext.parallelize(matchingSubsequences);
+    }
+
     // Other methods of TextSearch class can go here
 }
 
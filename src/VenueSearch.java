@@ -43,13 +43,27 @@ public class VenueSearch extends DBLPSearch {
      * @param doc the XML Document object representing the results of a venue search.
      */
     protected void processResults(Document doc) {
+        for (String line : formatResults(doc)) {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Extracts the names of the venues from the XML Document object.
+     * @param doc the XML Document object representing the results of a venue search.
+     * @return the names of the venues.
+     */
+    @Override
+    protected List<String> formatResults(Document doc) {
         // Reference: https://studres.cs.st-andrews.ac.uk/CS1003/Lectures/W03-Examples/W03-5-XMLStreaming/DomExample.java
         // Reference: https://studres.cs.st-andrews.ac.uk/CS1003/Lectures/W03-Examples/W03-3/XMLRev.java
 
+        List<String> lines = new ArrayList<>();
         NodeList venues = doc.getElementsByTagName("venue");
         for (int i = 0; i < venues.getLength(); i++) {
             Element venue = (Element) venues.item(i);
-            System.out.println(venue.getTextContent().trim());
+            lines.add(venue.getTextContent().trim());
         }
+        return lines;
     }
 }
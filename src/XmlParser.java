@@ -6,6 +6,8 @@ import java.io.*;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.parsers.*;
 import javax.xml.transform.*;
 import javax.xml.transform.dom.DOMSource;
@@ -15,38 +17,81 @@ import org.w3c.dom.*;
 import org.xml.sax.*;
 
 public class XmlParser {
-    // A Map used to store the cached XML documents where the key is the URL and the value is the Document object.
-    private static Map<String, Document> cache = new HashMap<>();
+    // A Map used to store the cached XML responses where the key is the URL and the value is the loading or loaded response body.
+    // Asynchronous searches read it from several threads, so each URL is loaded by exactly one thread and the others wait for it.
+    // The raw bytes are cached rather than the Document object, because DOM trees are not safe to share between threads.
+    private static Map<String, CompletableFuture<byte[]>> cache = new ConcurrentHashMap<>();
 
     /**
      * Retrieves an XML document from the specified URL and returns it as a Document object. 
      * The method also saves the document to the cache directory and adds it to the cache for future use.
-     * If the document is already in the cache, it is retrieved from the cache instead of making a new API call.
+     * If the document is already in the cache, it is parsed from the cached response instead of making a new API call,
+     * so every caller receives its own Document object.
      * @param url the URL of the XML document to be retrieved.
      * @param cacheDir the directory path to store the cache files of retrieved XML documents.
      * @return a Document object representing the XML response from the specified URL, or null if the document cannot be retrieved.
      */
     public static Document getDocument(String url, String cacheDir) {
-        if (cache.containsKey(url)) {
-            //System.out.println("Using cached response for " + url); (used for clear testing)
-            return cache.get(url);
-        }
-        try {
-            // Reference: https://studres.cs.st-andrews.ac.uk/CS1003/Lectures/W03-Examples/W03-2-SimpleXMLWriter/SimpleXMLWriter.java
-            // Reference: https://stackoverflow.com/questions/38904352/parsing-xml-from-url-in-java
-    
-            //System.out.println("Making API call to " + url); (used for clear testing)
-            URL apiUrl = new URL(url);
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse(apiUrl.openConnection().getInputStream());
-            cache.put(url, doc);
-            saveDocument(doc, cacheDir, url);
+        CompletableFuture<byte[]> loading = new CompletableFuture<>();
+        CompletableFuture<byte[]> cached = cache.putIfAbsent(url, loading);
+        if (cached == null) {
+            byte[] content = null;
+            Document doc = null;
+            try {
+                content = readContent(url);
+                if (content != null) {
+                    doc = parseContent(content);
+                }
+                if (doc != null) {
+                    saveDocument(doc, cacheDir, url);
+                }
+            } finally {
+                if (doc == null) {
+                    // Forget the failure so a later call can try again, and release any waiting threads.
+                    cache.remove(url, loading);
+                    loading.complete(null);
+                } else {
+                    loading.complete(content);
+                }
+            }
             return doc;
+        }
+        //System.out.println("Using cached response for " + url); (used for clear testing)
+        byte[] content = cached.join();
+        return content == null ? null : parseContent(content);
+    }
 
+    /**
+     * Reads the response body from the specified URL.
+     * @param url the URL of the XML document to be retrieved.
+     * @return the bytes of the response, or null if the URL cannot be read.
+     */
+    private static byte[] readContent(String url) {
+        // Reference: https://stackoverflow.com/questions/38904352/parsing-xml-from-url-in-java
+        //System.out.println("Making API call to " + url); (used for clear testing)
+        try (InputStream in = new URL(url).openConnection().getInputStream()) {
+            return in.readAllBytes();
         } catch (MalformedURLException e) {
             System.err.println("Malformed URL: " + url);
             e.printStackTrace();
+        } catch (IOException e) {
+            System.err.println("Error reading from URL: " + url);
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Parses the specified XML content into a new Document object.
+     * @param content the bytes of the XML document.
+     * @return a Document object representing the XML content, or null if the content cannot be parsed.
+     */
+    private static Document parseContent(byte[] content) {
+        try {
+            // Reference: https://studres.cs.st-andrews.ac.uk/CS1003/Lectures/W03-Examples/W03-2-SimpleXMLWriter/SimpleXMLWriter.java
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            DocumentBuilder db = dbf.newDocumentBuilder();
+            return db.parse(new ByteArrayInputStream(content));
         } catch (ParserConfigurationException e) {
             System.err.println("Error parsing XML document");
             e.printStackTrace();
@@ -54,7 +99,7 @@ public class XmlParser {
             System.err.println("Error parsing XML document");
             e.printStackTrace();
         } catch (IOException e) {
-            System.err.println("Error reading from URL: " + url);
+            System.err.println("Error parsing XML document");
             e.printStackTrace();
         }
         return null;